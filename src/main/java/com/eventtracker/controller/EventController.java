@@ -4,17 +4,20 @@ package com.eventtracker.controller;
 import com.eventtracker.dto.EventStatus;
 import com.eventtracker.dto.EventStatusRequest;
 import com.eventtracker.dto.EventStatusResponse;
+import com.eventtracker.dto.ScoreHistoryResponse;
 import com.eventtracker.service.EventStatusService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
 
 @RestController
 @RequestMapping("/events")
@@ -81,6 +84,25 @@ public class EventController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/{eventId}/scores/history")
+    public ResponseEntity<ScoreHistoryResponse> getScoreHistory(
+            @PathVariable @NotBlank String eventId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant since) {
+
+        log.debug("Getting score history for eventId={}, since={}", eventId, since);
+
+        if (eventStatusService.getEventStatus(eventId) == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+
+        ScoreHistoryResponse response = ScoreHistoryResponse.builder()
+                .eventId(eventId)
+                .transitions(eventStatusService.getScoreHistory(eventId, since))
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/active-count")
     public ResponseEntity<Integer> getActiveEventCount() {
         int count = eventStatusService.getActiveEventCount();
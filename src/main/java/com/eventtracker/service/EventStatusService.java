@@ -3,13 +3,13 @@ package com.eventtracker.service;
 import com.eventtracker.dto.EventStatus;
 import com.eventtracker.dto.ScoreData;
 import com.eventtracker.dto.ScoreMessage;
+import com.eventtracker.dto.ScoreTransition;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.scheduling.TaskScheduler;
@@ -17,7 +17,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.Instant;
-import java.util.concurrent.CompletableFuture;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 
@@ -27,19 +27,21 @@ import java.util.concurrent.ScheduledFuture;
 public class EventStatusService {
 
     private final RestTemplate restTemplate;
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ScorePublisher scorePublisher;
     private final TaskScheduler taskScheduler;
     private final ObjectMapper objectMapper;
 
     @Value("${app.external-api.url}")
     private String externalApiUrl;
 
-    @Value("${app.kafka.topic}")
-    private String kafkaTopic;
+    @Value("${app.score-history.capacity}")
+    private int scoreHistoryCapacity;
 
     // In-memory storage for event statuses and scheduled tasks
     private final ConcurrentHashMap<String, EventStatus> eventStatuses = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, ScheduledFuture<?>> scheduledTasks = new ConcurrentHashMap<>();
+    // Bounded score history per live event, freed when the event stops
+    private final ConcurrentHashMap<String, ScoreHistoryBuffer> scoreHistories = new ConcurrentHashMap<>();
 
     public void updateEventStatus(String eventId, boolean isLive) {
         log.info("Updating event status: eventId={}, isLive={}", eventId, isLive);
@@ -54,9 +56,11 @@ public class EventStatusService {
         eventStatuses.put(eventId, new EventStatus(eventId, isLive));
 
         if (isLive) {
+            scoreHistories.putIfAbsent(eventId, new ScoreHistoryBuffer(scoreHistoryCapacity));
             startScheduledTask(eventId);
         } else {
             stopScheduledTask(eventId);
+            scoreHistories.remove(eventId);
         }
     }
 
@@ -96,7 +100,9 @@ public class EventStatusService {
             }
 
             ScoreData scoreData = fetchScoreFromExternalApi(eventId);
-            publishScoreMessage(scoreData);
+            Instant timestamp = Instant.now();
+            publishScoreMessage(scoreData, timestamp);
+            recordScore(eventId, scoreData.getCurrentScore(), timestamp);
 
         } catch (Exception e) {
             log.error("Error processing score for eventId={}: {}", eventId, e.getMessage(), e);
@@ -125,28 +131,17 @@ public class EventStatusService {
     }
 
     @Retryable(value = {Exception.class}, maxAttempts = 3, backoff = @Backoff(delay = 500))
-    private void publishScoreMessage(ScoreData scoreData) {
+    private void publishScoreMessage(ScoreData scoreData, Instant timestamp) {
         try {
             ScoreMessage message = ScoreMessage.builder()
                     .eventId(scoreData.getEventId())
                     .currentScore(scoreData.getCurrentScore())
-                    .timestamp(Instant.now())
+                    .timestamp(timestamp)
                     .build();
 
             String messageJson = objectMapper.writeValueAsString(message);
 
-            CompletableFuture<SendResult<String, String>> future =
-                    kafkaTemplate.send(kafkaTopic, scoreData.getEventId(), messageJson);
-
-            future.whenComplete((result, ex) -> {
-                if (ex != null) {
-                    log.error("Failed to publish message for eventId={}: {}",
-                            scoreData.getEventId(), ex.getMessage());
-                } else {
-                    log.debug("Successfully published message for eventId={} to topic={}",
-                            scoreData.getEventId(), kafkaTopic);
-                }
-            });
+            scorePublisher.publish(scoreData.getEventId(), messageJson);
 
         } catch (JsonProcessingException e) {
             log.error("Failed to serialize message for eventId={}: {}",
@@ -155,6 +150,27 @@ public class EventStatusService {
         }
     }
 
+    private void recordScore(String eventId, String currentScore, Instant timestamp) {
+        // Only live events own a buffer; a late task run must not re-create one after stop
+        ScoreHistoryBuffer history = scoreHistories.get(eventId);
+        if (history == null) {
+            return;
+        }
+
+        try {
+            if (history.record(timestamp, currentScore)) {
+                log.debug("Recorded score transition for eventId={}: {}", eventId, currentScore);
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("Skipping score history for eventId={}: {}", eventId, e.getMessage());
+        }
+    }
+
+    public List<ScoreTransition> getScoreHistory(String eventId, Instant since) {
+        ScoreHistoryBuffer history = scoreHistories.get(eventId);
+        return history != null ? history.since(since) : List.of();
+    }
+
     public EventStatus getEventStatus(String eventId) {
         return eventStatuses.get(eventId);
     }
@@ -165,10 +181,13 @@ public class EventStatusService {
                 .count();
     }
 
+    @PreDestroy
     public void shutdown() {
         log.info("Shutting down event status service, cancelling {} scheduled tasks",
                 scheduledTasks.size());
         scheduledTasks.values().forEach(task -> task.cancel(false));
         scheduledTasks.clear();
+        scoreHistories.clear();
+        scorePublisher.shutdown();
     }
 }
@@ -0,0 +1,113 @@
+package com.eventtracker.service;
+
+import com.eventtracker.dto.ScoreTransition;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-size ring buffer of score transitions for a single event.
+ * <p>
+ * Scores in the {@code home:away} format are packed into a single int
+ * (16 bits per side) next to an epoch-millis timestamp, so each slot costs
+ * 12 bytes regardless of how many events are live. Once the buffer is full
+ * the oldest transition is overwritten.
+ */
+class ScoreHistoryBuffer {
+
+    private static final int MAX_SIDE_SCORE = 0xFFFF;
+
+    private final long[] timestamps;
+    private final int[] scores;
+    private int head;
+    private int size;
+
+    ScoreHistoryBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Score history capacity must be positive: " + capacity);
+        }
+        this.timestamps = new long[capacity];
+        this.scores = new int[capacity];
+    }
+
+    /**
+     * Records a score if it differs from the most recent one.
+     *
+     * @return {@code true} if a new transition was stored
+     * @throws IllegalArgumentException if the score is not in {@code home:away} format
+     */
+    synchronized boolean record(Instant timestamp, String score) {
+        int packed = pack(score);
+
+        if (size > 0 && scores[previous(head)] == packed) {
+            return false;
+        }
+
+        timestamps[head] = timestamp.toEpochMilli();
+        scores[head] = packed;
+        head = (head + 1) % scores.length;
+        if (size < scores.length) {
+            size++;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the stored transitions strictly after {@code since}, oldest first.
+     * A {@code null} {@code since} returns the whole buffer.
+     */
+    synchronized List<ScoreTransition> since(Instant since) {
+        long sinceMillis = since != null ? since.toEpochMilli() : Long.MIN_VALUE;
+        List<ScoreTransition> transitions = new ArrayList<>(size);
+
+        int start = (head - size + scores.length) % scores.length;
+        for (int i = 0; i < size; i++) {
+            int slot = (start + i) % scores.length;
+            if (timestamps[slot] > sinceMillis) {
+                transitions.add(ScoreTransition.builder()
+                        .currentScore(unpack(scores[slot]))
+                        .timestamp(Instant.ofEpochMilli(timestamps[slot]))
+                        .build());
+            }
+        }
+        return transitions;
+    }
+
+    int capacity() {
+        return scores.length;
+    }
+
+    private int previous(int slot) {
+        return (slot - 1 + scores.length) % scores.length;
+    }
+
+    private static int pack(String score) {
+        if (score == null) {
+            throw new IllegalArgumentException("Score must not be null");
+        }
+        int separator = score.indexOf(':');
+        if (separator < 0 || separator != score.lastIndexOf(':')) {
+            throw new IllegalArgumentException("Score is not in home:away format: " + score);
+        }
+        int home = parseSide(score, score.substring(0, separator));
+        int away = parseSide(score, score.substring(separator + 1));
+        return (home << 16) | away;
+    }
+
+    private static int parseSide(String score, String side) {
+        try {
+            int value = Integer.parseInt(side.trim());
+            if (value < 0 || value > MAX_SIDE_SCORE) {
+                throw new IllegalArgumentException("Score out of range: " + score);
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Score is not in home:away format: " + score, e);
+        }
+    }
+
+    private static String unpack(int packed) {
+        return (packed >>> 16) + ":" + (packed & MAX_SIDE_SCORE);
+    }
+}
@@ -0,0 +1,83 @@
+package com.eventtracker.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Publishes score messages to Kafka.
+ * <p>
+ * Batching and compression are left to the producer (see {@code spring.kafka.producer.*}),
+ * which already keeps one batch per partition. A failing send is logged against its
+ * eventId and does not affect other messages.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScorePublisher {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+
+    @Value("${app.kafka.topic}")
+    private String kafkaTopic;
+
+    // Publishes share the read lock; shutdown takes the write lock to wait for sends in progress
+    private final ReadWriteLock shutdownLock = new ReentrantReadWriteLock();
+    private boolean closed;
+
+    public void publish(String key, String value) {
+        shutdownLock.readLock().lock();
+        try {
+            send(key, value);
+            if (closed) {
+                // Shutdown has already flushed, so a late message flushes itself
+                flush();
+            }
+        } finally {
+            shutdownLock.readLock().unlock();
+        }
+    }
+
+    private void send(String key, String value) {
+        try {
+            CompletableFuture<SendResult<String, String>> future = kafkaTemplate.send(kafkaTopic, key, value);
+
+            future.whenComplete((result, ex) -> {
+                if (ex != null) {
+                    log.error("Failed to publish message for eventId={}: {}", key, ex.getMessage());
+                } else {
+                    log.debug("Successfully published message for eventId={} to topic={}", key, kafkaTopic);
+                }
+            });
+
+        } catch (Exception e) {
+            log.error("Failed to publish message for eventId={}: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * Blocks until the producer has completed all in-flight sends.
+     */
+    public void flush() {
+        kafkaTemplate.flush();
+    }
+
+    public void shutdown() {
+        shutdownLock.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            shutdownLock.writeLock().unlock();
+        }
+
+        log.info("Shutting down score publisher, flushing in-flight messages");
+        flush();
+    }
+}
@@ -2,6 +2,7 @@ package com.eventtracker.controller;
 
 import com.eventtracker.dto.EventStatus;
 import com.eventtracker.dto.EventStatusRequest;
+import com.eventtracker.dto.ScoreTransition;
 import com.eventtracker.service.EventStatusService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
@@ -11,6 +12,10 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -95,5 +100,46 @@ class EventControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().string("5"));
     }
-}
 
+    @Test
+    void testGetScoreHistory() throws Exception {
+        // Given
+        Instant since = Instant.parse("2026-01-01T12:00:00Z");
+        when(eventStatusService.getEventStatus("event-1"))
+                .thenReturn(new EventStatus("event-1", true));
+        when(eventStatusService.getScoreHistory("event-1", since))
+                .thenReturn(List.of(new ScoreTransition("2:1", since.plusSeconds(10))));
+
+        // When & Then
+        mockMvc.perform(get("/events/event-1/scores/history")
+                        .param("since", "2026-01-01T12:00:00Z"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.eventId").value("event-1"))
+                .andExpect(jsonPath("$.transitions[0].currentScore").value("2:1"));
+    }
+
+    @Test
+    void testGetScoreHistoryWithoutSince() throws Exception {
+        // Given
+        when(eventStatusService.getEventStatus("event-1"))
+                .thenReturn(new EventStatus("event-1", false));
+        when(eventStatusService.getScoreHistory(eq("event-1"), isNull()))
+                .thenReturn(List.of());
+
+        // When & Then
+        mockMvc.perform(get("/events/event-1/scores/history"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transitions").isEmpty());
+    }
+
+    @Test
+    void testGetScoreHistoryNotFound() throws Exception {
+        // Given
+        when(eventStatusService.getEventStatus("non-existent"))
+                .thenReturn(null);
+
+        // When & Then
+        mockMvc.perform(get("/events/non-existent/scores/history"))
+                .andExpect(status().isNotFound());
+    }
+}
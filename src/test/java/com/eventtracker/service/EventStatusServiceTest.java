@@ -1,16 +1,19 @@
 package com.eventtracker.service;
 
 import com.eventtracker.dto.EventStatus;
+import com.eventtracker.dto.ScoreData;
+import com.eventtracker.dto.ScoreTransition;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.List;
 import java.util.concurrent.ScheduledFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -24,7 +27,7 @@ class EventStatusServiceTest {
     private RestTemplate restTemplate;
 
     @Mock
-    private KafkaTemplate<String, String> kafkaTemplate;
+    private ScorePublisher scorePublisher;
 
     @Mock
     private TaskScheduler taskScheduler;
@@ -37,8 +40,8 @@ class EventStatusServiceTest {
 
     @BeforeEach
     void setUp() {
-        ObjectMapper objectMapper = new ObjectMapper();
-        eventStatusService = new EventStatusService(restTemplate, kafkaTemplate, taskScheduler, objectMapper);
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        eventStatusService = new EventStatusService(restTemplate, scorePublisher, taskScheduler, objectMapper);
 
         // Set private fields using reflection for testing
         try {
@@ -46,9 +49,9 @@ class EventStatusServiceTest {
             externalApiUrlField.setAccessible(true);
             externalApiUrlField.set(eventStatusService, "http://localhost:8080/mock-api");
 
-            var kafkaTopicField = EventStatusService.class.getDeclaredField("kafkaTopic");
-            kafkaTopicField.setAccessible(true);
-            kafkaTopicField.set(eventStatusService, "score-updates");
+            var scoreHistoryCapacityField = EventStatusService.class.getDeclaredField("scoreHistoryCapacity");
+            scoreHistoryCapacityField.setAccessible(true);
+            scoreHistoryCapacityField.set(eventStatusService, 32);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -115,4 +118,46 @@ class EventStatusServiceTest {
         // Then
         assertNull(status);
     }
+
+    @Test
+    void testScoreHistoryRecordedWhileLiveAndFreedOnStop() {
+        // Given
+        String eventId = "event-1";
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        when(taskScheduler.scheduleAtFixedRate(task.capture(), any(), any()))
+                .thenReturn(scheduledFuture);
+        when(restTemplate.getForObject(anyString(), eq(ScoreData.class)))
+                .thenReturn(new ScoreData(eventId, "1:0"));
+        eventStatusService.updateEventStatus(eventId, true);
+
+        // When
+        task.getValue().run();
+
+        // Then
+        verify(scorePublisher).publish(eq(eventId), contains("\"currentScore\":\"1:0\""));
+        List<ScoreTransition> history = eventStatusService.getScoreHistory(eventId, null);
+        assertEquals(1, history.size());
+        assertEquals("1:0", history.get(0).getCurrentScore());
+
+        // When
+        eventStatusService.updateEventStatus(eventId, false);
+
+        // Then
+        assertTrue(eventStatusService.getScoreHistory(eventId, null).isEmpty());
+    }
+
+    @Test
+    void testShutdownFlushesPublisher() {
+        // Given
+        when(taskScheduler.scheduleAtFixedRate(any(Runnable.class), any(), any()))
+                .thenReturn(scheduledFuture);
+        eventStatusService.updateEventStatus("event-1", true);
+
+        // When
+        eventStatusService.shutdown();
+
+        // Then
+        verify(scheduledFuture).cancel(false);
+        verify(scorePublisher).shutdown();
+    }
 }
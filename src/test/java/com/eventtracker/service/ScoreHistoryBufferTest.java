@@ -0,0 +1,94 @@
+package com.eventtracker.service;
+
+import com.eventtracker.dto.ScoreTransition;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreHistoryBufferTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-01T12:00:00Z");
+
+    @Test
+    void testRecordsTransitionsOldestFirst() {
+        // Given
+        ScoreHistoryBuffer buffer = new ScoreHistoryBuffer(4);
+
+        // When
+        buffer.record(T0, "0:0");
+        buffer.record(T0.plusSeconds(10), "1:0");
+
+        // Then
+        List<ScoreTransition> transitions = buffer.since(null);
+        assertEquals(2, transitions.size());
+        assertEquals("0:0", transitions.get(0).getCurrentScore());
+        assertEquals(T0, transitions.get(0).getTimestamp());
+        assertEquals("1:0", transitions.get(1).getCurrentScore());
+        assertEquals(T0.plusSeconds(10), transitions.get(1).getTimestamp());
+    }
+
+    @Test
+    void testIgnoresUnchangedScore() {
+        // Given
+        ScoreHistoryBuffer buffer = new ScoreHistoryBuffer(4);
+        buffer.record(T0, "2:1");
+
+        // When
+        boolean recorded = buffer.record(T0.plusSeconds(10), "2:1");
+
+        // Then
+        assertFalse(recorded);
+        assertEquals(1, buffer.since(null).size());
+    }
+
+    @Test
+    void testOverwritesOldestWhenFull() {
+        // Given
+        ScoreHistoryBuffer buffer = new ScoreHistoryBuffer(3);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            buffer.record(T0.plusSeconds(i), i + ":0");
+        }
+
+        // Then
+        List<ScoreTransition> transitions = buffer.since(null);
+        assertEquals(3, transitions.size());
+        assertEquals("2:0", transitions.get(0).getCurrentScore());
+        assertEquals("4:0", transitions.get(2).getCurrentScore());
+    }
+
+    @Test
+    void testSinceIsExclusive() {
+        // Given
+        ScoreHistoryBuffer buffer = new ScoreHistoryBuffer(4);
+        buffer.record(T0, "0:0");
+        buffer.record(T0.plusSeconds(10), "0:1");
+        buffer.record(T0.plusSeconds(20), "0:2");
+
+        // When
+        List<ScoreTransition> transitions = buffer.since(T0.plusSeconds(10));
+
+        // Then
+        assertEquals(1, transitions.size());
+        assertEquals("0:2", transitions.get(0).getCurrentScore());
+    }
+
+    @Test
+    void testRejectsMalformedScore() {
+        ScoreHistoryBuffer buffer = new ScoreHistoryBuffer(4);
+
+        assertThrows(IllegalArgumentException.class, () -> buffer.record(T0, "two-one"));
+        assertThrows(IllegalArgumentException.class, () -> buffer.record(T0, "1:2:3"));
+        assertThrows(IllegalArgumentException.class, () -> buffer.record(T0, "70000:0"));
+        assertTrue(buffer.since(null).isEmpty());
+    }
+
+    @Test
+    void testRejectsNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new ScoreHistoryBuffer(0));
+    }
+}
@@ -0,0 +1,145 @@
+package com.eventtracker.service;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the previous producer settings, the current producer settings with direct
+ * sends, and the current settings behind {@link ScorePublisher} against an embedded broker.
+ * <p>
+ * Not picked up by the default test run; execute it with
+ * {@code mvn test -Dtest=ScorePublisherBenchmark}.
+ */
+class ScorePublisherBenchmark {
+
+    private static final String TOPIC = "score-updates-bench";
+    private static final int PARTITIONS = 6;
+    private static final int EVENTS = 10_000;
+    private static final int MESSAGES = 200_000;
+    private static final int WARMUP_MESSAGES = 20_000;
+
+    private static EmbeddedKafkaKraftBroker broker;
+
+    @BeforeAll
+    static void startBroker() {
+        broker = new EmbeddedKafkaKraftBroker(1, PARTITIONS, TOPIC);
+        broker.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        broker.destroy();
+    }
+
+    @Test
+    void compareBaselineWithPipeline() {
+        Result baseline = runDirect(16384, 1, "none");
+        Result tuned = runDirect(65536, 5, "lz4");
+        Result pipeline = runPipeline();
+
+        System.out.printf("%-10s %12s %14s %16s%n", "setup", "messages/s", "requests", "records/request");
+        baseline.print("baseline");
+        tuned.print("tuned");
+        pipeline.print("pipeline");
+
+        assertEquals(MESSAGES, baseline.recordsSent);
+        assertEquals(MESSAGES, tuned.recordsSent);
+        assertEquals(MESSAGES, pipeline.recordsSent);
+        assertEquals(0, pipeline.recordErrors);
+    }
+
+    // One template.send per message, as before the publish stage
+    private Result runDirect(int batchSize, int lingerMs, String compression) {
+        KafkaTemplate<String, String> template = template(batchSize, lingerMs, compression);
+        try {
+            return measure(template, (key, value) -> template.send(TOPIC, key, value), template::flush);
+        } finally {
+            template.destroy();
+        }
+    }
+
+    private Result runPipeline() {
+        KafkaTemplate<String, String> template = template(65536, 5, "lz4");
+        try {
+            ScorePublisher publisher = new ScorePublisher(template);
+            ReflectionTestUtils.setField(publisher, "kafkaTopic", TOPIC);
+            return measure(template, publisher::publish, publisher::flush);
+        } finally {
+            template.destroy();
+        }
+    }
+
+    private Result measure(KafkaTemplate<String, String> template, BiConsumer<String, String> send, Runnable flush) {
+        publishMessages(send, WARMUP_MESSAGES);
+        flush.run();
+        double warmupRecords = metric(template, "record-send-total");
+        double warmupRequests = metric(template, "request-total");
+        double warmupErrors = metric(template, "record-error-total");
+
+        long start = System.nanoTime();
+        publishMessages(send, MESSAGES);
+        flush.run();
+        long elapsedNanos = System.nanoTime() - start;
+
+        return new Result(
+                MESSAGES / (elapsedNanos / 1_000_000_000.0),
+                (long) (metric(template, "request-total") - warmupRequests),
+                (long) (metric(template, "record-send-total") - warmupRecords),
+                (long) (metric(template, "record-error-total") - warmupErrors));
+    }
+
+    private static void publishMessages(BiConsumer<String, String> send, int count) {
+        String timestamp = Instant.now().toString();
+        for (int i = 0; i < count; i++) {
+            String eventId = "event-" + (i % EVENTS);
+            send.accept(eventId, String.format(
+                    "{\"eventId\":\"%s\",\"currentScore\":\"%d:%d\",\"timestamp\":\"%s\"}",
+                    eventId, i % 5, i % 3, timestamp));
+        }
+    }
+
+    private static KafkaTemplate<String, String> template(int batchSize, int lingerMs, String compression) {
+        Map<String, Object> props = KafkaTestUtils.producerProps(broker.getBrokersAsString());
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        props.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compression);
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props));
+    }
+
+    private static double metric(KafkaTemplate<String, String> template, String name) {
+        for (Map.Entry<MetricName, ? extends Metric> entry : template.metrics().entrySet()) {
+            MetricName metricName = entry.getKey();
+            if (metricName.name().equals(name) && metricName.group().equals("producer-metrics")) {
+                return ((Number) entry.getValue().metricValue()).doubleValue();
+            }
+        }
+        throw new IllegalStateException("Producer metric not found: " + name);
+    }
+
+    private record Result(double messagesPerSecond, long requests, long recordsSent, long recordErrors) {
+
+        void print(String setup) {
+            System.out.printf("%-10s %12.0f %14d %16.1f%n", setup, messagesPerSecond, requests,
+                    requests > 0 ? (double) recordsSent / requests : 0);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.eventtracker.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScorePublisherTest {
+
+    private static final String TOPIC = "score-updates";
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    private ScorePublisher scorePublisher;
+
+    @BeforeEach
+    void setUp() {
+        scorePublisher = new ScorePublisher(kafkaTemplate);
+        ReflectionTestUtils.setField(scorePublisher, "kafkaTopic", TOPIC);
+    }
+
+    @Test
+    void testPublishSendsToTopic() {
+        // Given
+        when(kafkaTemplate.send(TOPIC, "event-1", "a")).thenReturn(new CompletableFuture<>());
+
+        // When
+        scorePublisher.publish("event-1", "a");
+
+        // Then
+        verify(kafkaTemplate).send(TOPIC, "event-1", "a");
+    }
+
+    @Test
+    void testFailingSendDoesNotAffectOtherMessages() {
+        // Given
+        when(kafkaTemplate.send(eq(TOPIC), any(), anyString())).thenReturn(new CompletableFuture<>());
+        when(kafkaTemplate.send(TOPIC, "event-2", "b")).thenThrow(new RuntimeException("buffer full"));
+
+        // When
+        assertDoesNotThrow(() -> {
+            scorePublisher.publish("event-1", "a");
+            scorePublisher.publish("event-2", "b");
+            scorePublisher.publish(null, "c");
+            scorePublisher.publish("event-4", "d");
+        });
+
+        // Then
+        verify(kafkaTemplate).send(TOPIC, "event-1", "a");
+        verify(kafkaTemplate).send(TOPIC, null, "c");
+        verify(kafkaTemplate).send(TOPIC, "event-4", "d");
+    }
+
+    @Test
+    void testShutdownFlushesProducer() {
+        // When
+        scorePublisher.shutdown();
+
+        // Then
+        verify(kafkaTemplate).flush();
+    }
+
+    @Test
+    void testShutdownWaitsForPublishInProgress() throws Exception {
+        // Given
+        CountDownLatch sendStarted = new CountDownLatch(1);
+        CountDownLatch releaseSend = new CountDownLatch(1);
+        when(kafkaTemplate.send(TOPIC, "event-1", "a")).thenAnswer(invocation -> {
+            sendStarted.countDown();
+            releaseSend.await();
+            return new CompletableFuture<>();
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            executor.submit(() -> scorePublisher.publish("event-1", "a"));
+            assertTrue(sendStarted.await(5, TimeUnit.SECONDS));
+
+            // When
+            Future<?> shutdown = executor.submit(scorePublisher::shutdown);
+
+            // Then
+            verify(kafkaTemplate, after(200).never()).flush();
+            releaseSend.countDown();
+            shutdown.get(5, TimeUnit.SECONDS);
+
+            InOrder inOrder = inOrder(kafkaTemplate);
+            inOrder.verify(kafkaTemplate).send(TOPIC, "event-1", "a");
+            inOrder.verify(kafkaTemplate).flush();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testPublishAfterShutdownIsFlushed() {
+        // Given
+        when(kafkaTemplate.send(TOPIC, "event-1", "a")).thenReturn(new CompletableFuture<>());
+        scorePublisher.shutdown();
+
+        // When
+        scorePublisher.publish("event-1", "a");
+
+        // Then
+        InOrder inOrder = inOrder(kafkaTemplate);
+        inOrder.verify(kafkaTemplate).flush();
+        inOrder.verify(kafkaTemplate).send(TOPIC, "event-1", "a");
+        inOrder.verify(kafkaTemplate).flush();
+    }
+}